@@ -0,0 +1,80 @@
+package com.bank.api.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global in-flight request limit adjusted with AIMD from observed latency:
+ * every fast response grows the limit by {@code 1 / limit} (about +1 per window),
+ * a response slower than the target shrinks it by {@code backoff}, at most once per target latency.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final int SCALE_SHIFT = 10;
+    private static final long ONE = 1L << SCALE_SHIFT;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong scaledLimit;
+    private final AtomicLong lastDecreaseNanos;
+    private final long minLimit;
+    private final long maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoff;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos, double backoff) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.scaledLimit = new AtomicLong(clamp((long) initialLimit << SCALE_SHIFT));
+        this.lastDecreaseNanos = new AtomicLong(System.nanoTime() - targetLatencyNanos);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoff = backoff;
+    }
+
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit taken by {@link #tryAcquire()}.
+     *
+     * @param latencyNanos time the request held the permit
+     * @param sample whether the latency should adjust the limit
+     */
+    public void release(long latencyNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (!sample) {
+            return;
+        }
+        if (latencyNanos > targetLatencyNanos) {
+            long now = System.nanoTime();
+            long last = lastDecreaseNanos.get();
+            if (now - last >= targetLatencyNanos && lastDecreaseNanos.compareAndSet(last, now)) {
+                scaledLimit.updateAndGet(scaled -> clamp((long) (scaled * backoff)));
+            }
+        } else if (inFlightBefore * 2 >= getLimit()) {
+            // Grow only while the limit is actually in use, otherwise idle traffic would inflate it.
+            scaledLimit.updateAndGet(scaled -> clamp(scaled + (ONE * ONE) / scaled));
+        }
+    }
+
+    public int getLimit() {
+        return (int) (scaledLimit.get() >> SCALE_SHIFT);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private long clamp(long scaled) {
+        return Math.min(maxLimit << SCALE_SHIFT, Math.max(minLimit << SCALE_SHIFT, scaled));
+    }
+}
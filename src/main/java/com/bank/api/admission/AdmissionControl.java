@@ -0,0 +1,118 @@
+package com.bank.api.admission;
+
+import com.bank.api.dto.AdmissionStatsResponse;
+import com.bank.api.exception.AdmissionRejectedException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sheds excess load before any transaction is opened: per-client and per-account
+ * token buckets plus a global adaptive concurrency limit.
+ */
+@Component
+public class AdmissionControl {
+
+    private final boolean enabled;
+    private final boolean trustClientHeader;
+    private final TokenBucketLimiter clientLimiter;
+    private final TokenBucketLimiter accountLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedByClient = new LongAdder();
+    private final LongAdder rejectedByAccount = new LongAdder();
+    private final LongAdder rejectedByConcurrency = new LongAdder();
+
+    public AdmissionControl(
+            @Value("${bank.admission.enabled:true}") boolean enabled,
+            @Value("${bank.admission.client.trust-header:false}") boolean trustClientHeader,
+            @Value("${bank.admission.client.permits-per-second:50}") double clientRate,
+            @Value("${bank.admission.client.burst:100}") int clientBurst,
+            @Value("${bank.admission.account.permits-per-second:10}") double accountRate,
+            @Value("${bank.admission.account.burst:20}") int accountBurst,
+            @Value("${bank.admission.max-tracked-keys:100000}") int maxTrackedKeys,
+            @Value("${bank.admission.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${bank.admission.concurrency.min-limit:4}") int minLimit,
+            @Value("${bank.admission.concurrency.max-limit:100}") int maxLimit,
+            @Value("${bank.admission.concurrency.target-latency-ms:100}") long targetLatencyMs,
+            @Value("${bank.admission.concurrency.backoff:0.9}") double backoff
+    ) {
+        this.enabled = enabled;
+        this.trustClientHeader = trustClientHeader;
+        this.clientLimiter = new TokenBucketLimiter(clientRate, clientBurst, maxTrackedKeys);
+        this.accountLimiter = new TokenBucketLimiter(accountRate, accountBurst, maxTrackedKeys);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                TimeUnit.MILLISECONDS.toNanos(targetLatencyMs), backoff);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Admits a request and takes a global concurrency permit.
+     * The permit must be returned with {@link #release(long, boolean)}.
+     * The client is keyed by the declared client id only when the header is trusted
+     * and the limiter has room for it, otherwise by remote address.
+     *
+     * @param declaredClientId client id from the request header, nullable
+     * @param remoteAddress remote address of the connection
+     * @throws AdmissionRejectedException if the client is over its rate or the service is at its concurrency limit
+     */
+    public void admit(String declaredClientId, String remoteAddress) {
+        boolean useDeclared = trustClientHeader && declaredClientId != null && !declaredClientId.isBlank()
+                && clientLimiter.canTrack(declaredClientId);
+        if (!clientLimiter.tryAcquire(useDeclared ? declaredClientId : remoteAddress)) {
+            rejectedByClient.increment();
+            throw new AdmissionRejectedException("client rate limit exceeded");
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            rejectedByConcurrency.increment();
+            throw new AdmissionRejectedException("service overloaded");
+        }
+        admitted.increment();
+    }
+
+    /**
+     * Checks the rate limit of the account a write operation targets.
+     *
+     * @param userId account owner identifier
+     * @throws AdmissionRejectedException if the account is over its rate
+     */
+    public void admitAccount(Long userId) {
+        if (enabled && !accountLimiter.tryAcquire(userId)) {
+            rejectedByAccount.increment();
+            throw new AdmissionRejectedException("account rate limit exceeded");
+        }
+    }
+
+    /**
+     * Returns the concurrency permit taken by {@link #admit(String, String)}.
+     *
+     * @param latencyNanos request processing time
+     * @param sample whether the latency reflects real work and should adapt the limit
+     */
+    public void release(long latencyNanos, boolean sample) {
+        concurrencyLimiter.release(latencyNanos, sample);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.admission.evict-interval-ms:10000}")
+    public void evictIdleBuckets() {
+        clientLimiter.evictIdle();
+        accountLimiter.evictIdle();
+    }
+
+    public AdmissionStatsResponse stats() {
+        return new AdmissionStatsResponse(
+                admitted.sum(),
+                rejectedByClient.sum(),
+                rejectedByAccount.sum(),
+                rejectedByConcurrency.sum(),
+                concurrencyLimiter.getLimit(),
+                concurrencyLimiter.getInFlight()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.bank.api.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies {@link AdmissionControl} before the request body is read or a transaction is started.
+ * Clients are identified by remote address. The {@value #CLIENT_HEADER} header is used instead only
+ * when {@code bank.admission.client.trust-header} is enabled, which is safe only if a trusted
+ * gateway sets the header and strips it from client requests.
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_HEADER = "X-Client-Id";
+
+    private static final String START_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".start";
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionInterceptor(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        admissionControl.admit(request.getHeader(CLIENT_HEADER), request.getRemoteAddr());
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        // Requests shed by the account limiter did no work, so their latency would only inflate the limit.
+        boolean sample = response.getStatus() != HttpStatus.TOO_MANY_REQUESTS.value();
+        admissionControl.release(System.nanoTime() - (Long) start, sample);
+    }
+}
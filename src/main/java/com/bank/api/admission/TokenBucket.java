@@ -0,0 +1,41 @@
+package com.bank.api.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as GCRA: the whole state is a single
+ * theoretical arrival time updated with CAS, so acquiring a token never blocks
+ * and does not allocate.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = arrival - nowNanos > 0 ? arrival : nowNanos;
+            if (base - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * A bucket is idle once it has fully refilled; dropping it loses no state.
+     */
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.api.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyed set of token buckets. Buckets are created on first use up to {@code maxKeys};
+ * once the map is full, new keys share a single overflow bucket until
+ * {@link #evictIdle()} frees room, so the map cannot grow without bound.
+ */
+public final class TokenBucketLimiter {
+
+    private final ConcurrentHashMap<Object, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxKeys;
+
+    public TokenBucketLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxKeys = maxKeys;
+        this.overflow = new TokenBucket(permitsPerSecond, burst, System.nanoTime());
+    }
+
+    public boolean tryAcquire(Object key) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.mappingCount() >= maxKeys) {
+                return overflow.tryAcquire(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Whether {@code key} has its own bucket or there is room to create one.
+     */
+    public boolean canTrack(Object key) {
+        return buckets.mappingCount() < maxKeys || buckets.containsKey(key);
+    }
+
+    /**
+     * Drops fully refilled buckets. Called periodically, never on the request path.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.api.config;
+
+import com.bank.api.admission.AdmissionControl;
+import com.bank.api.admission.AdmissionInterceptor;
+import com.bank.api.web.ApiResponseHttpMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionControl admissionControl;
+
+    public WebConfig(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (admissionControl.isEnabled()) {
+            registry.addInterceptor(new AdmissionInterceptor(admissionControl))
+                    .addPathPatterns("/api/v1/bank/**");
+        }
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ApiResponseHttpMessageConverter());
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.api.controller;
+
+import com.bank.api.admission.AdmissionControl;
+import com.bank.api.dto.AdmissionStatsResponse;
+import com.bank.api.dto.ApiResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admission")
+public class AdmissionController {
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionController(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    /**
+     * Returns admission counters and the current adaptive concurrency limit.
+     * Value is the total number of rejected requests.
+     */
+    @GetMapping("/stats")
+    public ApiResponse<AdmissionStatsResponse> stats() {
+        AdmissionStatsResponse stats = admissionControl.stats();
+        long rejected = stats.rejectedByClient() + stats.rejectedByAccount() + stats.rejectedByConcurrency();
+        return ApiResponse.ok(rejected, stats);
+    }
+}
@@ -1,5 +1,6 @@
 package com.bank.api.controller;
 
+import com.bank.api.admission.AdmissionControl;
 import com.bank.api.dto.AmountRequest;
 import com.bank.api.dto.ApiResponse;
 import com.bank.api.dto.BalanceResponse;
@@ -25,9 +26,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class BankController {
 
     private final BankService bankService;
+    private final AdmissionControl admissionControl;
 
-    public BankController(BankService bankService) {
+    public BankController(BankService bankService, AdmissionControl admissionControl) {
         this.bankService = bankService;
+        this.admissionControl = admissionControl;
     }
 
     /**
@@ -44,8 +47,9 @@ public class BankController {
      */
     @PostMapping("/takeMoney")
     public ApiResponse<Void> takeMoney(@RequestParam @NotNull Long userId, @Valid @RequestBody AmountRequest request) {
+        admissionControl.admitAccount(userId);
         bankService.withdraw(userId, request.amount());
-        return ApiResponse.ok(1, null);
+        return ApiResponse.success();
     }
 
     /**
@@ -53,8 +57,9 @@ public class BankController {
      */
     @PostMapping("/putMoney")
     public ApiResponse<Void> putMoney(@RequestParam @NotNull Long userId, @Valid @RequestBody AmountRequest request) {
+        admissionControl.admitAccount(userId);
         bankService.deposit(userId, request.amount());
-        return ApiResponse.ok(1, null);
+        return ApiResponse.success();
     }
 
     /**
@@ -76,7 +81,8 @@ public class BankController {
      */
     @PostMapping("/transferMoney")
     public ApiResponse<Void> transferMoney(@Valid @RequestBody TransferRequest request) {
+        admissionControl.admitAccount(request.fromUserId());
         bankService.transfer(request.fromUserId(), request.toUserId(), request.amount());
-        return ApiResponse.ok(1, null);
+        return ApiResponse.success();
     }
 }
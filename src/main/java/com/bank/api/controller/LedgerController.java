@@ -0,0 +1,39 @@
+package com.bank.api.controller;
+
+import com.bank.api.dto.ApiResponse;
+import com.bank.api.dto.LedgerReport;
+import com.bank.api.service.LedgerVerificationService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/ledger")
+public class LedgerController {
+
+    private final LedgerVerificationService ledgerVerificationService;
+
+    public LedgerController(LedgerVerificationService ledgerVerificationService) {
+        this.ledgerVerificationService = ledgerVerificationService;
+    }
+
+    /**
+     * Checks account balances against operation history.
+     * Value is the number of mismatched accounts.
+     */
+    @PostMapping("/verify")
+    public ApiResponse<LedgerReport> verify() {
+        LedgerReport report = ledgerVerificationService.verify();
+        return ApiResponse.ok(report.mismatches().size(), report);
+    }
+
+    /**
+     * Restores account balances from operation history.
+     * Value is the number of corrected accounts.
+     */
+    @PostMapping("/rebuild")
+    public ApiResponse<LedgerReport> rebuild() {
+        LedgerReport report = ledgerVerificationService.rebuild();
+        return ApiResponse.ok(report.mismatches().size(), report);
+    }
+}
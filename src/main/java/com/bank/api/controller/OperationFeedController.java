@@ -0,0 +1,38 @@
+package com.bank.api.controller;
+
+import com.bank.api.service.OperationFeedService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/feed")
+@Validated
+public class OperationFeedController {
+
+    private final OperationFeedService operationFeedService;
+
+    public OperationFeedController(OperationFeedService operationFeedService) {
+        this.operationFeedService = operationFeedService;
+    }
+
+    /**
+     * Streams new operations of the user as Server-Sent Events.
+     * Resumes after {@code lastOperationId} or the {@code Last-Event-ID} header sent on reconnect.
+     */
+    @GetMapping("/subscribeOperations")
+    public SseEmitter subscribeOperations(
+            @RequestParam @NotNull Long userId,
+            @RequestParam(required = false) Long lastOperationId,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+            HttpServletRequest request
+    ) {
+        return operationFeedService.subscribe(userId, lastEventId != null ? lastEventId : lastOperationId, request);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.api.controller;
+
+import com.bank.api.dto.ApiResponse;
+import com.bank.api.dto.RecurringTransferRequest;
+import com.bank.api.dto.RecurringTransferResponse;
+import com.bank.api.service.RecurringTransferService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/recurring")
+@Validated
+public class RecurringTransferController {
+
+    private final RecurringTransferService recurringTransferService;
+
+    public RecurringTransferController(RecurringTransferService recurringTransferService) {
+        this.recurringTransferService = recurringTransferService;
+    }
+
+    /**
+     * Creates a standing transfer order.
+     */
+    @PostMapping("/createTransfer")
+    public ApiResponse<RecurringTransferResponse> createTransfer(@Valid @RequestBody RecurringTransferRequest request) {
+        RecurringTransferResponse data = recurringTransferService.create(request);
+        return ApiResponse.ok(data.id(), data);
+    }
+
+    /**
+     * Returns standing orders of the sender.
+     */
+    @GetMapping("/getTransferList")
+    public ApiResponse<List<RecurringTransferResponse>> getTransferList(@RequestParam @NotNull Long userId) {
+        List<RecurringTransferResponse> transfers = recurringTransferService.getList(userId);
+        return ApiResponse.ok(transfers.size(), transfers);
+    }
+
+    /**
+     * Cancels a standing order.
+     */
+    @PostMapping("/cancelTransfer")
+    public ApiResponse<Void> cancelTransfer(@RequestParam @NotNull Long id) {
+        recurringTransferService.cancel(id);
+        return ApiResponse.success();
+    }
+}
@@ -0,0 +1,11 @@
+package com.bank.api.dto;
+
+public record AdmissionStatsResponse(
+        long admitted,
+        long rejectedByClient,
+        long rejectedByAccount,
+        long rejectedByConcurrency,
+        int concurrencyLimit,
+        int inFlight
+) {
+}
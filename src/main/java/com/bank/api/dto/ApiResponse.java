@@ -2,6 +2,8 @@ package com.bank.api.dto;
 
 public record ApiResponse<T>(Number value, String text, T data) {
 
+    private static final ApiResponse<Void> SUCCESS = new ApiResponse<>(1, "", null);
+
     public static <T> ApiResponse<T> ok(Number value, T data) {
         return new ApiResponse<>(value, "", data);
     }
@@ -9,4 +11,11 @@ public record ApiResponse<T>(Number value, String text, T data) {
     public static <T> ApiResponse<T> fail(Number value, String text) {
         return new ApiResponse<>(value, text, null);
     }
+
+    /**
+     * Shared {@code {value: 1}} response of the write endpoints.
+     */
+    public static ApiResponse<Void> success() {
+        return SUCCESS;
+    }
 }
@@ -0,0 +1,6 @@
+package com.bank.api.dto;
+
+import java.math.BigDecimal;
+
+public record BalanceMismatch(Long userId, BigDecimal accountBalance, BigDecimal historyBalance) {
+}
@@ -0,0 +1,11 @@
+package com.bank.api.dto;
+
+import java.util.List;
+
+public record LedgerReport(
+        int checkedAccounts,
+        long scannedOperations,
+        List<BalanceMismatch> mismatches,
+        List<BalanceMismatch> unrepaired
+) {
+}
@@ -1,5 +1,6 @@
 package com.bank.api.dto;
 
+import com.bank.api.entity.Operation;
 import com.bank.api.entity.OperationType;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -10,4 +11,9 @@ public record OperationItemResponse(
         BigDecimal amount,
         Long relatedUserId
 ) {
+
+    public static OperationItemResponse from(Operation operation) {
+        return new OperationItemResponse(operation.getCreatedAt(), operation.getOperationType(),
+                operation.getAmount(), operation.getRelatedUserId());
+    }
 }
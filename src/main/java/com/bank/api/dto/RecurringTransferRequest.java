@@ -0,0 +1,21 @@
+package com.bank.api.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public record RecurringTransferRequest(
+        @NotNull(message = "fromUserId is required")
+        Long fromUserId,
+        @NotNull(message = "toUserId is required")
+        Long toUserId,
+        @NotNull(message = "amount is required")
+        @DecimalMin(value = "0.01", message = "amount must be greater than 0")
+        BigDecimal amount,
+        @NotBlank(message = "period is required")
+        String period,
+        OffsetDateTime firstRunAt
+) {
+}
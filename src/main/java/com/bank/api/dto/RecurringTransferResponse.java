@@ -0,0 +1,20 @@
+package com.bank.api.dto;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public record RecurringTransferResponse(
+        Long id,
+        Long fromUserId,
+        Long toUserId,
+        BigDecimal amount,
+        String period,
+        OffsetDateTime firstRunAt,
+        OffsetDateTime nextRunAt,
+        boolean active,
+        int attempts,
+        OffsetDateTime retryAt,
+        String lastError,
+        OffsetDateTime lastRunAt
+) {
+}
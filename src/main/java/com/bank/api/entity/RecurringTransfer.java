@@ -0,0 +1,180 @@
+package com.bank.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "recurring_transfers")
+public class RecurringTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_user_id", nullable = false)
+    private Long fromUserId;
+
+    @Column(name = "to_user_id", nullable = false)
+    private Long toUserId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    /**
+     * ISO-8601 date period between runs, e.g. {@code P1M}.
+     */
+    @Column(nullable = false, length = 32)
+    private String period;
+
+    @Column(name = "first_run_at", nullable = false)
+    private OffsetDateTime firstRunAt;
+
+    @Column(name = "next_run_at", nullable = false)
+    private OffsetDateTime nextRunAt;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "retry_at")
+    private OffsetDateTime retryAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "last_run_at")
+    private OffsetDateTime lastRunAt;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private OffsetDateTime claimedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFromUserId() {
+        return fromUserId;
+    }
+
+    public void setFromUserId(Long fromUserId) {
+        this.fromUserId = fromUserId;
+    }
+
+    public Long getToUserId() {
+        return toUserId;
+    }
+
+    public void setToUserId(Long toUserId) {
+        this.toUserId = toUserId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public OffsetDateTime getFirstRunAt() {
+        return firstRunAt;
+    }
+
+    public void setFirstRunAt(OffsetDateTime firstRunAt) {
+        this.firstRunAt = firstRunAt;
+    }
+
+    public OffsetDateTime getNextRunAt() {
+        return nextRunAt;
+    }
+
+    public void setNextRunAt(OffsetDateTime nextRunAt) {
+        this.nextRunAt = nextRunAt;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public OffsetDateTime getRetryAt() {
+        return retryAt;
+    }
+
+    public void setRetryAt(OffsetDateTime retryAt) {
+        this.retryAt = retryAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public OffsetDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    public void setLastRunAt(OffsetDateTime lastRunAt) {
+        this.lastRunAt = lastRunAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public OffsetDateTime getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(OffsetDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
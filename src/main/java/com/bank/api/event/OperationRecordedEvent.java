@@ -0,0 +1,9 @@
+package com.bank.api.event;
+
+/**
+ * Published when an operation row is written. Carries only the owner: listeners that must
+ * only see committed data subscribe with {@code @TransactionalEventListener(phase = AFTER_COMMIT)}
+ * and read the operations themselves.
+ */
+public record OperationRecordedEvent(Long userId) {
+}
@@ -0,0 +1,12 @@
+package com.bank.api.exception;
+
+/**
+ * Thrown when a request is shed by admission control. Carries no stack trace,
+ * since it is expected under overload and must stay cheap.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    public AdmissionRejectedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,11 +1,15 @@
 package com.bank.api.exception;
 
+/**
+ * Expected business rejection such as "insufficient funds". The stack trace is not captured,
+ * since these are part of normal request flow and only the code and message reach the client.
+ */
 public class BusinessException extends RuntimeException {
 
     private final int code;
 
     public BusinessException(int code, String message) {
-        super(message);
+        super(message, null, false, false);
         this.code = code;
     }
 
@@ -17,6 +17,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.ok(ApiResponse.fail(ex.getCode(), ex.getMessage()));
     }
 
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAdmission(AdmissionRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ApiResponse.fail(0, ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidation(MethodArgumentNotValidException ex) {
         FieldError fieldError = ex.getBindingResult().getFieldErrors().stream().findFirst().orElse(null);
@@ -2,9 +2,11 @@ package com.bank.api.repository;
 
 import com.bank.api.entity.Account;
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +14,7 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Account> findByUserId(Long userId);
+
+    @Query("select a.userId from Account a order by a.userId")
+    List<Long> findAllUserIds();
 }
@@ -0,0 +1,11 @@
+package com.bank.api.repository;
+
+import com.bank.api.entity.OperationType;
+import java.math.BigDecimal;
+
+/**
+ * Minimal operation projection used when replaying history, so scanned rows
+ * are not attached to the persistence context.
+ */
+public record OperationAmountView(Long id, OperationType type, BigDecimal amount) {
+}
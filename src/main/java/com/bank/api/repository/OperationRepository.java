@@ -1,13 +1,34 @@
 package com.bank.api.repository;
 
 import com.bank.api.entity.Operation;
+import jakarta.persistence.QueryHint;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OperationRepository extends JpaRepository<Operation, Long> {
 
     List<Operation> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(Long userId, OffsetDateTime from, OffsetDateTime to);
+
+    List<Operation> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+
+    @Query("select coalesce(max(o.id), 0) from Operation o where o.userId = :userId")
+    Long findLastIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * Streams user operations with id greater than {@code afterId} in commit order.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.bank.api.repository.OperationAmountView(o.id, o.operationType, o.amount) "
+            + "from Operation o where o.userId = :userId and o.id > :afterId order by o.id")
+    Stream<OperationAmountView> streamAmountsAfter(@Param("userId") Long userId, @Param("afterId") Long afterId);
 }
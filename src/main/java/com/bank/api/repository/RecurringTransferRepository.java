@@ -0,0 +1,38 @@
+package com.bank.api.repository;
+
+import com.bank.api.entity.RecurringTransfer;
+import jakarta.persistence.LockModeType;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecurringTransferRepository extends JpaRepository<RecurringTransfer, Long> {
+
+    /**
+     * Locks up to {@code limit} due, unclaimed instructions. Rows locked by another
+     * instance are skipped instead of waited on.
+     */
+    @Query(value = """
+            SELECT * FROM recurring_transfers
+            WHERE active
+              AND next_run_at <= :now
+              AND (retry_at IS NULL OR retry_at <= :now)
+              AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY next_run_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<RecurringTransfer> lockDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RecurringTransfer r where r.id = :id")
+    Optional<RecurringTransfer> findLockedById(@Param("id") Long id);
+
+    List<RecurringTransfer> findByFromUserIdOrderByIdAsc(Long fromUserId);
+}
@@ -5,6 +5,7 @@ import com.bank.api.dto.OperationItemResponse;
 import com.bank.api.entity.Account;
 import com.bank.api.entity.Operation;
 import com.bank.api.entity.OperationType;
+import com.bank.api.event.OperationRecordedEvent;
 import com.bank.api.exception.BusinessException;
 import com.bank.api.repository.AccountRepository;
 import com.bank.api.repository.OperationRepository;
@@ -12,6 +13,7 @@ import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,10 +22,13 @@ public class BankService {
 
     private final AccountRepository accountRepository;
     private final OperationRepository operationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BankService(AccountRepository accountRepository, OperationRepository operationRepository) {
+    public BankService(AccountRepository accountRepository, OperationRepository operationRepository,
+                       ApplicationEventPublisher eventPublisher) {
         this.accountRepository = accountRepository;
         this.operationRepository = operationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -103,7 +108,7 @@ public class BankService {
 
         return operationRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, effectiveFrom, effectiveTo)
                 .stream()
-                .map(op -> new OperationItemResponse(op.getCreatedAt(), op.getOperationType(), op.getAmount(), op.getRelatedUserId()))
+                .map(OperationItemResponse::from)
                 .toList();
     }
 
@@ -154,5 +159,6 @@ public class BankService {
         operation.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
         operation.setRelatedUserId(relatedUserId);
         operationRepository.save(operation);
+        eventPublisher.publishEvent(new OperationRecordedEvent(userId));
     }
 }
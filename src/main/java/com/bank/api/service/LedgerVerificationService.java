@@ -0,0 +1,251 @@
+package com.bank.api.service;
+
+import com.bank.api.dto.BalanceMismatch;
+import com.bank.api.dto.LedgerReport;
+import com.bank.api.entity.Account;
+import com.bank.api.entity.BalanceCheckpoint;
+import com.bank.api.exception.BusinessException;
+import com.bank.api.repository.AccountRepository;
+import com.bank.api.repository.BalanceCheckpointRepository;
+import com.bank.api.repository.OperationAmountView;
+import com.bank.api.repository.OperationRepository;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes account balances from operation history and compares them with {@code accounts}.
+ * The user id space is split into partitions processed in parallel on a dedicated fork-join pool.
+ * Every consistent account gets a checkpoint, so the next run only replays newer operations.
+ */
+@Service
+public class LedgerVerificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerVerificationService.class);
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final BalanceCheckpointRepository checkpointRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ForkJoinPool pool;
+    private final int partitionSize;
+
+    public LedgerVerificationService(
+            AccountRepository accountRepository,
+            OperationRepository operationRepository,
+            BalanceCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${bank.ledger.parallelism:2}") int parallelism,
+            @Value("${bank.ledger.partition-size:256}") int partitionSize,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+    ) {
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.checkpointRepository = checkpointRepository;
+
+        // Repeatable read gives one snapshot per partition, so account balance and history are read consistently.
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+
+        // Every worker holds a connection for a whole partition; leave at least half the pool to live traffic.
+        this.pool = new ForkJoinPool(Math.max(1, Math.min(parallelism, connectionPoolSize / 2)));
+        this.partitionSize = Math.max(1, partitionSize);
+    }
+
+    /**
+     * Replays operations after the last checkpoint for every account and reports balances
+     * that differ from history. Checkpoints are advanced only for consistent accounts.
+     *
+     * @return verification report
+     */
+    public LedgerReport verify() {
+        return run(false);
+    }
+
+    /**
+     * Restores {@code accounts.balance} from the last checkpoint and operation history.
+     * Each account is locked while it is rebuilt.
+     *
+     * @return report listing accounts whose balance was corrected; accounts whose history
+     *         yields a negative balance are left unchanged and listed as unrepaired
+     */
+    public LedgerReport rebuild() {
+        return run(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private LedgerReport run(boolean rebuild) {
+        List<Long> userIds = accountRepository.findAllUserIds();
+        List<UserLedger> ledgers = pool.invoke(new PartitionTask(userIds, rebuild));
+
+        long scanned = 0;
+        List<BalanceMismatch> mismatches = new ArrayList<>();
+        List<BalanceMismatch> unrepaired = new ArrayList<>();
+        for (UserLedger ledger : ledgers) {
+            scanned += ledger.scannedOperations();
+            if (ledger.consistent()) {
+                continue;
+            }
+            BalanceMismatch mismatch = new BalanceMismatch(ledger.userId(), ledger.accountBalance(), ledger.historyBalance());
+            if (rebuild && !ledger.repairable()) {
+                // already logged by rebuildAccount
+                unrepaired.add(mismatch);
+            } else {
+                mismatches.add(mismatch);
+                log.warn("Balance mismatch for user {}: accounts={}, history={}{}", ledger.userId(),
+                        ledger.accountBalance(), ledger.historyBalance(), rebuild ? " (rebuilt)" : "");
+            }
+        }
+        return new LedgerReport(ledgers.size(), scanned, mismatches, unrepaired);
+    }
+
+    private List<UserLedger> verifyPartition(List<Long> userIds) {
+        List<UserLedger> ledgers = snapshotTransaction.execute(status -> replayPartition(userIds));
+        List<BalanceCheckpoint> checkpoints = ledgers.stream()
+                .filter(ledger -> ledger.consistent() && ledger.scannedOperations() > 0)
+                .map(LedgerVerificationService::checkpoint)
+                .toList();
+        if (!checkpoints.isEmpty()) {
+            writeTransaction.executeWithoutResult(status -> checkpointRepository.saveAll(checkpoints));
+        }
+        return ledgers;
+    }
+
+    private List<UserLedger> replayPartition(List<Long> userIds) {
+        Map<Long, BalanceCheckpoint> checkpoints = checkpointRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(BalanceCheckpoint::getUserId, Function.identity()));
+        List<UserLedger> ledgers = new ArrayList<>(userIds.size());
+        for (Account account : accountRepository.findAllById(userIds)) {
+            ledgers.add(replay(account, checkpoints.get(account.getUserId())));
+        }
+        return ledgers;
+    }
+
+    private List<UserLedger> rebuildPartition(List<Long> userIds) {
+        List<UserLedger> ledgers = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            ledgers.add(writeTransaction.execute(status -> rebuildAccount(userId)));
+        }
+        return ledgers;
+    }
+
+    private UserLedger rebuildAccount(Long userId) {
+        Account account = accountRepository.findByUserId(userId)
+                .orElseThrow(() -> new BusinessException(0, "user not found"));
+        UserLedger ledger = replay(account, checkpointRepository.findById(userId).orElse(null));
+        if (!ledger.repairable()) {
+            log.error("History for user {} yields negative balance {}, account left unchanged", userId, ledger.historyBalance());
+            return ledger;
+        }
+        if (!ledger.consistent()) {
+            account.setBalance(ledger.historyBalance());
+            accountRepository.save(account);
+        }
+        checkpointRepository.save(checkpoint(ledger));
+        return ledger;
+    }
+
+    /**
+     * Operations of one user are always inserted while that user's account row is locked,
+     * so per-user id order matches commit order and the last seen id is a safe resume point.
+     */
+    private UserLedger replay(Account account, BalanceCheckpoint checkpoint) {
+        BigDecimal balance = checkpoint == null ? BigDecimal.ZERO : checkpoint.getBalance();
+        long lastOperationId = checkpoint == null ? 0L : checkpoint.getLastOperationId();
+        long scanned = 0;
+        try (Stream<OperationAmountView> operations = operationRepository.streamAmountsAfter(account.getUserId(), lastOperationId)) {
+            Iterator<OperationAmountView> iterator = operations.iterator();
+            while (iterator.hasNext()) {
+                OperationAmountView operation = iterator.next();
+                balance = apply(balance, operation);
+                lastOperationId = operation.id();
+                scanned++;
+            }
+        }
+        return new UserLedger(account.getUserId(), account.getBalance(), balance, lastOperationId, scanned);
+    }
+
+    private static BigDecimal apply(BigDecimal balance, OperationAmountView operation) {
+        return switch (operation.type()) {
+            case DEPOSIT, TRANSFER_IN -> balance.add(operation.amount());
+            case WITHDRAW, TRANSFER_OUT -> balance.subtract(operation.amount());
+        };
+    }
+
+    private static BalanceCheckpoint checkpoint(UserLedger ledger) {
+        BalanceCheckpoint checkpoint = new BalanceCheckpoint();
+        checkpoint.setUserId(ledger.userId());
+        checkpoint.setBalance(ledger.historyBalance());
+        checkpoint.setLastOperationId(ledger.lastOperationId());
+        checkpoint.setCreatedAt(OffsetDateTime.now(ZoneOffset.UTC));
+        return checkpoint;
+    }
+
+    private record UserLedger(
+            Long userId,
+            BigDecimal accountBalance,
+            BigDecimal historyBalance,
+            long lastOperationId,
+            long scannedOperations
+    ) {
+        boolean consistent() {
+            return accountBalance.compareTo(historyBalance) == 0;
+        }
+
+        /**
+         * {@code accounts.balance} cannot go below zero, so such history cannot be restored.
+         */
+        boolean repairable() {
+            return historyBalance.signum() >= 0;
+        }
+    }
+
+    private final class PartitionTask extends RecursiveTask<List<UserLedger>> {
+
+        private final List<Long> userIds;
+        private final boolean rebuild;
+
+        private PartitionTask(List<Long> userIds, boolean rebuild) {
+            this.userIds = userIds;
+            this.rebuild = rebuild;
+        }
+
+        @Override
+        protected List<UserLedger> compute() {
+            if (userIds.size() <= partitionSize) {
+                return rebuild ? rebuildPartition(userIds) : verifyPartition(userIds);
+            }
+            int middle = userIds.size() >>> 1;
+            PartitionTask left = new PartitionTask(userIds.subList(0, middle), rebuild);
+            PartitionTask right = new PartitionTask(userIds.subList(middle, userIds.size()), rebuild);
+            left.fork();
+            List<UserLedger> result = new ArrayList<>(right.compute());
+            result.addAll(left.join());
+            return result;
+        }
+    }
+}
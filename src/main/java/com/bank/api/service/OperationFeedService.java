@@ -0,0 +1,305 @@
+package com.bank.api.service;
+
+import com.bank.api.dto.OperationItemResponse;
+import com.bank.api.entity.Operation;
+import com.bank.api.event.OperationRecordedEvent;
+import com.bank.api.exception.BusinessException;
+import com.bank.api.repository.AccountRepository;
+import com.bank.api.repository.OperationRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed operations to Server-Sent Events subscribers.
+ * After-commit events only wake a subscriber up; what to send is always read from
+ * {@code operations} after the last sent id, in id order. After-commit callbacks of
+ * concurrent transactions can arrive out of order, but by the time an event arrives
+ * every earlier operation of the same user is committed, so the read sees them all.
+ * A subscriber is drained by one dispatcher task at a time, so a slow client only
+ * delays its own stream and reads the next page only after the previous one was written.
+ * Servlet writes block, so drains do not share a small pool: each subscriber holds at most
+ * one dispatcher thread and keeps its slot until its last write returns, so the dispatcher
+ * never needs more than {@code max-subscribers} threads. A watchdog ends the async request of
+ * a subscriber whose write does not finish within the send timeout; it goes through the
+ * {@link jakarta.servlet.AsyncContext} because the emitter monitor is held by the blocked
+ * write. The write itself returns once the connector write timeout expires. Reads are gated
+ * separately by a small semaphore, so a burst of commits on watched accounts cannot take more
+ * than a few JDBC connections away from the transactional endpoints.
+ */
+@Service
+public class OperationFeedService {
+
+    private static final String EVENT_NAME = "operation";
+
+    private final AccountRepository accountRepository;
+    private final OperationRepository operationRepository;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger totalSubscribers = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor();
+    private final Semaphore reads;
+    private final int pageSize;
+    private final int maxSubscribersPerUser;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+
+    public OperationFeedService(
+            AccountRepository accountRepository,
+            OperationRepository operationRepository,
+            @Value("${bank.feed.page-size:200}") int pageSize,
+            @Value("${bank.feed.max-subscribers-per-user:5}") int maxSubscribersPerUser,
+            @Value("${bank.feed.max-subscribers:1000}") int maxSubscribers,
+            @Value("${bank.feed.max-concurrent-reads:2}") int maxConcurrentReads,
+            @Value("${bank.feed.timeout-ms:300000}") long timeoutMs,
+            @Value("${bank.feed.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.accountRepository = accountRepository;
+        this.operationRepository = operationRepository;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxSubscribersPerUser = Math.max(1, maxSubscribersPerUser);
+        this.maxSubscribers = Math.max(1, maxSubscribers);
+        this.dispatcher = new ThreadPoolExecutor(this.maxSubscribers, this.maxSubscribers,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        this.dispatcher.allowCoreThreadTimeOut(true);
+        this.reads = new Semaphore(Math.max(1, maxConcurrentReads));
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        long checkIntervalMs = Math.max(10, sendTimeoutMs / 4);
+        watchdog.scheduleWithFixedDelay(this::abortStalledSends, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens an operation stream for a user. When {@code lastOperationId} is given, operations
+     * after it are sent first; otherwise the stream starts after the user's latest operation.
+     *
+     * @param userId user identifier
+     * @param lastOperationId last operation id the client has seen, nullable
+     * @param request request the stream is written to; used to abort stalled writes
+     * @return SSE emitter; every event carries the operation id as its SSE id
+     * @throws BusinessException if user does not exist or has too many open streams
+     */
+    public SseEmitter subscribe(Long userId, Long lastOperationId, HttpServletRequest request) {
+        if (!accountRepository.existsById(userId)) {
+            throw new BusinessException(0, "user not found");
+        }
+        long startAfter = lastOperationId != null ? lastOperationId : operationRepository.findLastIdByUserId(userId);
+
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, request, startAfter);
+        subscribers.compute(userId, (id, existing) -> {
+            Set<Subscriber> set = existing == null ? ConcurrentHashMap.newKeySet() : existing;
+            if (set.size() >= maxSubscribersPerUser || totalSubscribers.get() >= maxSubscribers) {
+                throw new BusinessException(0, "too many subscriptions");
+            }
+            set.add(subscriber);
+            totalSubscribers.incrementAndGet();
+            return set;
+        });
+        emitter.onCompletion(subscriber::detach);
+        // Completing here ends the stream normally instead of surfacing AsyncRequestTimeoutException.
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.detach());
+
+        // Picks up the gap after lastOperationId and anything committed before registration.
+        subscriber.signal();
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOperationRecorded(OperationRecordedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers != null) {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.signal();
+            }
+        }
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    int subscriberCount(Long userId) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        return userSubscribers == null ? 0 : userSubscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::abort));
+    }
+
+    private void abortStalledSends() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                if (subscriber.isStalled(now)) {
+                    subscriber.abort();
+                }
+            }
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            if (set.remove(subscriber)) {
+                totalSubscribers.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final HttpServletRequest request;
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendStartedAt;
+        private long lastSentId;
+
+        private Subscriber(Long userId, SseEmitter emitter, HttpServletRequest request, long lastSentId) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.request = request;
+            this.lastSentId = lastSentId;
+        }
+
+        /**
+         * Marks new operations as available. Signals arriving while a drain runs are
+         * coalesced into one more read, so the committing thread never waits.
+         */
+        void signal() {
+            pending.set(true);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        /**
+         * Runs on one dispatcher thread at a time; the {@code draining} flag hands
+         * {@code lastSentId} over between runs.
+         */
+        private void drain() {
+            try {
+                while (!closed && pending.getAndSet(false)) {
+                    sendCommitted();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                // the slot of a subscriber closed mid-write is released only once that write returned
+                unregister(this);
+            } else if (pending.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private void sendCommitted() throws IOException, InterruptedException {
+            List<Operation> page;
+            do {
+                page = readPage();
+                for (Operation operation : page) {
+                    send(operation.getId(), OperationItemResponse.from(operation));
+                }
+            } while (page.size() == pageSize && !closed);
+        }
+
+        /**
+         * The permit covers the query only; it is released before any socket write starts.
+         */
+        private List<Operation> readPage() throws InterruptedException {
+            reads.acquire();
+            try {
+                return operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastSentId, Limit.of(pageSize));
+            } finally {
+                reads.release();
+            }
+        }
+
+        private void send(long operationId, OperationItemResponse item) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(operationId))
+                        .name(EVENT_NAME)
+                        .data(item));
+            } finally {
+                sendStartedAt = 0L;
+            }
+            lastSentId = operationId;
+        }
+
+        boolean isStalled(long now) {
+            long started = sendStartedAt;
+            return !closed && started != 0L && now - started > sendTimeoutNanos;
+        }
+
+        /**
+         * Called by the watchdog and on shutdown, possibly while {@code send} holds the emitter
+         * monitor, so it must not touch the emitter; completing the async context does not block on the write.
+         */
+        void abort() {
+            detach();
+            if (request.isAsyncStarted()) {
+                try {
+                    request.getAsyncContext().complete();
+                } catch (IllegalStateException ex) {
+                    // the request is already completing
+                }
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                detach();
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Stops further sends. While a drain is running, the drain releases the slot when it exits.
+         */
+        void detach() {
+            closed = true;
+            if (!draining.get()) {
+                unregister(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.bank.api.service;
+
+import com.bank.api.entity.RecurringTransfer;
+import com.bank.api.exception.BusinessException;
+import com.bank.api.repository.RecurringTransferRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes due standing orders. Each poll claims a batch with {@code FOR UPDATE SKIP LOCKED}
+ * and a time-limited lease, so several application instances share the work without
+ * picking the same rows. The batch is split by source account into chunks that run in
+ * parallel; transfers from one account stay in one chunk and never contend for its lock.
+ */
+@Component
+public class RecurringTransferRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransferRunner.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final RecurringTransferRepository recurringTransferRepository;
+    private final BankService bankService;
+    private final TransactionTemplate transaction;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final int parallelism;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+
+    public RecurringTransferRunner(
+            RecurringTransferRepository recurringTransferRepository,
+            BankService bankService,
+            PlatformTransactionManager transactionManager,
+            @Value("${bank.recurring.enabled:true}") boolean enabled,
+            @Value("${bank.recurring.parallelism:4}") int parallelism,
+            @Value("${bank.recurring.batch-size:200}") int batchSize,
+            @Value("${bank.recurring.lease-seconds:300}") long leaseSeconds,
+            @Value("${bank.recurring.retry-delay-seconds:600}") long retryDelaySeconds,
+            @Value("${bank.recurring.max-attempts:3}") int maxAttempts
+    ) {
+        this.recurringTransferRepository = recurringTransferRepository;
+        this.bankService = bankService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = Executors.newFixedThreadPool(this.parallelism);
+        this.batchSize = Math.max(1, batchSize);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Drains all instructions that are due now, batch by batch.
+     */
+    @Scheduled(fixedDelayString = "${bank.recurring.poll-interval-ms:10000}")
+    public void runDueTransfers() {
+        if (!enabled) {
+            return;
+        }
+        while (runBatch() == batchSize) {
+            // a full batch means more work may be waiting
+        }
+    }
+
+    /**
+     * Claims and executes one batch.
+     *
+     * @return number of claimed instructions
+     */
+    int runBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Claim> claimed = transaction.execute(status -> claim(now, claimToken));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<List<Long>> chunks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        for (Claim claim : claimed) {
+            chunks.get(Math.floorMod(Long.hashCode(claim.fromUserId()), parallelism)).add(claim.id());
+        }
+
+        CompletableFuture<?>[] futures = chunks.stream()
+                .filter(chunk -> !chunk.isEmpty())
+                .map(chunk -> CompletableFuture.runAsync(() -> chunk.forEach(id -> execute(id, claimToken)), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        return claimed.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Leases due rows to this batch.
+     */
+    private List<Claim> claim(OffsetDateTime now, String claimToken) {
+        List<RecurringTransfer> due = recurringTransferRepository.lockDue(now, batchSize);
+        List<Claim> claimed = new ArrayList<>(due.size());
+        for (RecurringTransfer transfer : due) {
+            transfer.setClaimedBy(claimToken);
+            transfer.setClaimedUntil(now.plus(lease));
+            claimed.add(new Claim(transfer.getId(), transfer.getFromUserId()));
+        }
+        recurringTransferRepository.saveAll(due);
+        return claimed;
+    }
+
+    private void execute(Long id, String claimToken) {
+        try {
+            transaction.executeWithoutResult(status -> transfer(id, claimToken));
+        } catch (BusinessException ex) {
+            recordFailure(id, claimToken, ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Recurring transfer {} failed", id, ex);
+            recordFailure(id, claimToken, "internal error");
+        }
+    }
+
+    private void transfer(Long id, String claimToken) {
+        RecurringTransfer transfer = recurringTransferRepository.findLockedById(id).orElse(null);
+        if (transfer == null || !transfer.isActive() || !claimToken.equals(transfer.getClaimedBy())) {
+            // cancelled meanwhile, or the lease expired and another instance took over
+            return;
+        }
+        bankService.transfer(transfer.getFromUserId(), transfer.getToUserId(), transfer.getAmount());
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        transfer.setLastRunAt(now);
+        transfer.setNextRunAt(nextOccurrence(transfer, now));
+        transfer.setAttempts(0);
+        transfer.setRetryAt(null);
+        transfer.setLastError(null);
+        release(transfer);
+    }
+
+    private void recordFailure(Long id, String claimToken, String error) {
+        transaction.executeWithoutResult(status -> {
+            RecurringTransfer transfer = recurringTransferRepository.findLockedById(id).orElse(null);
+            if (transfer == null || !claimToken.equals(transfer.getClaimedBy())) {
+                return;
+            }
+            OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+            int attempts = transfer.getAttempts() + 1;
+            transfer.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (attempts >= maxAttempts) {
+                log.warn("Recurring transfer {} skipped after {} attempts: {}", id, attempts, error);
+                transfer.setNextRunAt(nextOccurrence(transfer, now));
+                transfer.setAttempts(0);
+                transfer.setRetryAt(null);
+            } else {
+                transfer.setAttempts(attempts);
+                transfer.setRetryAt(now.plus(retryDelay.multipliedBy(attempts)));
+            }
+            release(transfer);
+        });
+    }
+
+    private void release(RecurringTransfer transfer) {
+        transfer.setClaimedBy(null);
+        transfer.setClaimedUntil(null);
+        recurringTransferRepository.save(transfer);
+    }
+
+    private record Claim(Long id, Long fromUserId) {
+    }
+
+    /**
+     * First occurrence {@code firstRunAt + n * period} after both the current occurrence and {@code now}.
+     * Counting from the anchor keeps month-end orders on the last day of each month instead of
+     * drifting to the 28th. Occurrences missed while the service was down are not replayed,
+     * only the one being executed.
+     */
+    static OffsetDateTime nextOccurrence(RecurringTransfer transfer, OffsetDateTime now) {
+        Period period = RecurringTransferService.parsePeriod(transfer.getPeriod());
+        OffsetDateTime current = transfer.getNextRunAt();
+        OffsetDateTime after = current.isAfter(now) ? current : now;
+        OffsetDateTime next = transfer.getFirstRunAt();
+        for (int n = 1; !next.isAfter(after); n++) {
+            next = transfer.getFirstRunAt().plus(period.multipliedBy(n));
+        }
+        return next;
+    }
+}
@@ -0,0 +1,116 @@
+package com.bank.api.service;
+
+import com.bank.api.dto.RecurringTransferRequest;
+import com.bank.api.dto.RecurringTransferResponse;
+import com.bank.api.entity.RecurringTransfer;
+import com.bank.api.exception.BusinessException;
+import com.bank.api.repository.AccountRepository;
+import com.bank.api.repository.RecurringTransferRepository;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class RecurringTransferService {
+
+    private final RecurringTransferRepository recurringTransferRepository;
+    private final AccountRepository accountRepository;
+
+    public RecurringTransferService(RecurringTransferRepository recurringTransferRepository, AccountRepository accountRepository) {
+        this.recurringTransferRepository = recurringTransferRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * Stores a standing transfer order. The first run happens at {@code firstRunAt}
+     * or immediately when it is not given.
+     *
+     * @param request transfer instruction
+     * @return stored instruction
+     * @throws BusinessException if users are same or missing, or the period is invalid
+     */
+    @Transactional
+    public RecurringTransferResponse create(RecurringTransferRequest request) {
+        if (request.fromUserId().equals(request.toUserId())) {
+            throw new BusinessException(0, "cannot transfer to same user");
+        }
+        if (!accountRepository.existsById(request.fromUserId()) || !accountRepository.existsById(request.toUserId())) {
+            throw new BusinessException(0, "sender or receiver not found");
+        }
+        parsePeriod(request.period());
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        RecurringTransfer transfer = new RecurringTransfer();
+        transfer.setFromUserId(request.fromUserId());
+        transfer.setToUserId(request.toUserId());
+        transfer.setAmount(request.amount());
+        transfer.setPeriod(request.period());
+        OffsetDateTime firstRunAt = request.firstRunAt() == null ? now : request.firstRunAt();
+        transfer.setFirstRunAt(firstRunAt);
+        transfer.setNextRunAt(firstRunAt);
+        transfer.setActive(true);
+        transfer.setCreatedAt(now);
+        return toResponse(recurringTransferRepository.save(transfer));
+    }
+
+    /**
+     * Returns standing orders where the user is the sender.
+     *
+     * @param userId sender user identifier
+     * @return instructions sorted by id
+     */
+    @Transactional(readOnly = true)
+    public List<RecurringTransferResponse> getList(Long userId) {
+        return recurringTransferRepository.findByFromUserIdOrderByIdAsc(userId)
+                .stream()
+                .map(RecurringTransferService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Deactivates a standing order. Waits for a run of the same order that is in progress.
+     *
+     * @param id instruction identifier
+     * @throws BusinessException if the instruction does not exist
+     */
+    @Transactional
+    public void cancel(Long id) {
+        RecurringTransfer transfer = recurringTransferRepository.findLockedById(id)
+                .orElseThrow(() -> new BusinessException(0, "recurring transfer not found"));
+        transfer.setActive(false);
+        recurringTransferRepository.save(transfer);
+    }
+
+    static Period parsePeriod(String value) {
+        try {
+            Period period = Period.parse(value);
+            if (period.isNegative() || period.isZero()) {
+                throw new BusinessException(0, "period must be positive");
+            }
+            return period;
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException(0, "invalid period, expected ISO-8601 like P1M");
+        }
+    }
+
+    private static RecurringTransferResponse toResponse(RecurringTransfer transfer) {
+        return new RecurringTransferResponse(
+                transfer.getId(),
+                transfer.getFromUserId(),
+                transfer.getToUserId(),
+                transfer.getAmount(),
+                transfer.getPeriod(),
+                transfer.getFirstRunAt(),
+                transfer.getNextRunAt(),
+                transfer.isActive(),
+                transfer.getAttempts(),
+                transfer.getRetryAt(),
+                transfer.getLastError(),
+                transfer.getLastRunAt()
+        );
+    }
+}
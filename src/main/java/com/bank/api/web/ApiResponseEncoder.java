@@ -0,0 +1,87 @@
+package com.bank.api.web;
+
+import com.bank.api.dto.ApiResponse;
+import com.bank.api.dto.BalanceResponse;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+
+/**
+ * Hand-written JSON encoding for the fixed response shapes of the hottest endpoints:
+ * {@code ApiResponse<Void>} and {@code ApiResponse<BalanceResponse>}.
+ * Output is byte-for-byte the same as the default Jackson mapping.
+ */
+public final class ApiResponseEncoder {
+
+    private static final int BUFFER_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final JsonBuffer SUCCESS_BODY = JsonBuffer.of("{\"value\":1,\"text\":\"\",\"data\":null}");
+    private static final ThreadLocal<JsonBuffer> BUFFERS = ThreadLocal.withInitial(() -> new JsonBuffer(BUFFER_CAPACITY));
+
+    private ApiResponseEncoder() {
+    }
+
+    /**
+     * Checks whether the declared response type has a shape this encoder handles.
+     *
+     * @param type declared return type of the handler
+     * @return {@code true} for {@code ApiResponse<Void>} and {@code ApiResponse<BalanceResponse>}
+     */
+    public static boolean supports(Type type) {
+        if (!(type instanceof ParameterizedType parameterized) || parameterized.getRawType() != ApiResponse.class) {
+            return false;
+        }
+        Type data = parameterized.getActualTypeArguments()[0];
+        return data == Void.class || data == BalanceResponse.class;
+    }
+
+    /**
+     * Encodes a response. The shared success body is returned as is; anything else is written
+     * into a per-thread buffer that stays valid until the next call on the same thread.
+     */
+    static JsonBuffer encode(ApiResponse<?> response) {
+        if (response == ApiResponse.success()) {
+            return SUCCESS_BODY;
+        }
+        JsonBuffer buffer = BUFFERS.get();
+        if (buffer.size() > MAX_RETAINED_CAPACITY) {
+            buffer = new JsonBuffer(BUFFER_CAPACITY);
+            BUFFERS.set(buffer);
+        }
+        buffer.reset().appendAscii("{\"value\":");
+        appendNumber(buffer, response.value());
+        buffer.appendAscii(",\"text\":");
+        if (response.text() == null) {
+            buffer.appendAscii("null");
+        } else {
+            buffer.appendString(response.text());
+        }
+        buffer.appendAscii(",\"data\":");
+        Object data = response.data();
+        if (data instanceof BalanceResponse balance) {
+            buffer.appendAscii("{\"userId\":");
+            appendNumber(buffer, balance.userId());
+            buffer.appendAscii(",\"balance\":");
+            appendNumber(buffer, balance.balance());
+            buffer.appendAscii("}");
+        } else if (data == null) {
+            buffer.appendAscii("null");
+        } else {
+            throw new IllegalArgumentException("unsupported response data: " + data.getClass().getName());
+        }
+        return buffer.appendAscii("}");
+    }
+
+    private static void appendNumber(JsonBuffer buffer, Number number) {
+        if (number == null) {
+            buffer.appendAscii("null");
+        } else if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            buffer.appendLong(number.longValue());
+        } else if (number instanceof BigDecimal decimal) {
+            buffer.appendAscii(decimal.toString());
+        } else {
+            buffer.appendAscii(number.toString());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.api.web;
+
+import com.bank.api.dto.ApiResponse;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes {@code ApiResponse<Void>} and {@code ApiResponse<BalanceResponse>} with {@link ApiResponseEncoder}
+ * instead of Jackson reflection. Every other response type falls through to the Jackson converter.
+ */
+public class ApiResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<ApiResponse<?>> {
+
+    public ApiResponseHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return ApiResponseEncoder.supports(type) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, Type type, HttpOutputMessage outputMessage) throws IOException {
+        JsonBuffer body = ApiResponseEncoder.encode(response);
+        outputMessage.getHeaders().setContentLength(body.size());
+        body.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    public ApiResponse<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is write-only", inputMessage);
+    }
+}
@@ -0,0 +1,145 @@
+package com.bank.api.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 byte buffer with just enough JSON writing support for fixed response shapes.
+ * Instances are reused per thread, so a buffer is only valid until the next encode on that thread.
+ */
+final class JsonBuffer {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int size;
+
+    JsonBuffer(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    static JsonBuffer of(String ascii) {
+        JsonBuffer buffer = new JsonBuffer(ascii.length());
+        buffer.appendAscii(ascii);
+        return buffer;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    JsonBuffer reset() {
+        size = 0;
+        return this;
+    }
+
+    JsonBuffer appendAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            bytes[size++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    JsonBuffer appendLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            ensureCapacity(MIN_LONG.length);
+            System.arraycopy(MIN_LONG, 0, bytes, size, MIN_LONG.length);
+            size += MIN_LONG.length;
+            return this;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            bytes[size++] = '-';
+            value = -value;
+        }
+        int start = size;
+        do {
+            bytes[size++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = size - 1; i < j; i++, j--) {
+            byte tmp = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = tmp;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a quoted JSON string, escaping the same characters Jackson does by default.
+     */
+    JsonBuffer appendString(String value) {
+        int length = value.length();
+        ensureCapacity(length + 2);
+        bytes[size++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensureCapacity(1);
+                bytes[size++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                appendEscape((byte) c);
+            } else if (c < 0x20) {
+                appendControl(c);
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                bytes[size++] = (byte) (0xC0 | (c >> 6));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Jackson escapes every surrogate char, so characters outside the BMP become
+                // a pair of escaped surrogates rather than 4-byte UTF-8.
+                appendUnicodeEscape(c);
+            } else {
+                ensureCapacity(3);
+                bytes[size++] = (byte) (0xE0 | (c >> 12));
+                bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        ensureCapacity(1);
+        bytes[size++] = '"';
+        return this;
+    }
+
+    private void appendControl(char c) {
+        switch (c) {
+            case '\b' -> appendEscape((byte) 'b');
+            case '\t' -> appendEscape((byte) 't');
+            case '\n' -> appendEscape((byte) 'n');
+            case '\f' -> appendEscape((byte) 'f');
+            case '\r' -> appendEscape((byte) 'r');
+            default -> appendUnicodeEscape(c);
+        }
+    }
+
+    private void appendUnicodeEscape(char c) {
+        ensureCapacity(6);
+        bytes[size++] = '\\';
+        bytes[size++] = 'u';
+        bytes[size++] = HEX[(c >> 12) & 0xF];
+        bytes[size++] = HEX[(c >> 8) & 0xF];
+        bytes[size++] = HEX[(c >> 4) & 0xF];
+        bytes[size++] = HEX[c & 0xF];
+    }
+
+    private void appendEscape(byte escaped) {
+        ensureCapacity(2);
+        bytes[size++] = '\\';
+        bytes[size++] = escaped;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
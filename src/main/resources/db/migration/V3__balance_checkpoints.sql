@@ -0,0 +1,17 @@
+CREATE TABLE balance_checkpoints (
+    user_id BIGINT PRIMARY KEY REFERENCES accounts(user_id),
+    balance NUMERIC(19,2) NOT NULL,
+    last_operation_id BIGINT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_operations_user_id ON operations (user_id, id);
+
+-- Seed accounts were created without history, so their current balance is taken as the opening checkpoint.
+INSERT INTO balance_checkpoints(user_id, balance, last_operation_id, created_at)
+SELECT a.user_id,
+       a.balance,
+       COALESCE((SELECT MAX(o.id) FROM operations o WHERE o.user_id = a.user_id), 0),
+       NOW()
+FROM accounts a
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,22 @@
+CREATE TABLE recurring_transfers (
+    id BIGSERIAL PRIMARY KEY,
+    from_user_id BIGINT NOT NULL REFERENCES accounts(user_id),
+    to_user_id BIGINT NOT NULL REFERENCES accounts(user_id),
+    amount NUMERIC(19,2) NOT NULL CHECK (amount > 0),
+    period VARCHAR(32) NOT NULL,
+    -- schedule anchor: occurrences are first_run_at + n * period, so month-end dates do not drift
+    first_run_at TIMESTAMPTZ NOT NULL,
+    next_run_at TIMESTAMPTZ NOT NULL,
+    active BOOLEAN NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    retry_at TIMESTAMPTZ,
+    last_error VARCHAR(255),
+    last_run_at TIMESTAMPTZ,
+    claimed_by VARCHAR(64),
+    claimed_until TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL,
+    CHECK (from_user_id <> to_user_id)
+);
+
+CREATE INDEX idx_recurring_transfers_due ON recurring_transfers (next_run_at) WHERE active;
+CREATE INDEX idx_recurring_transfers_from_user ON recurring_transfers (from_user_id);
@@ -0,0 +1,105 @@
+package com.bank.api.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bank.api.dto.AdmissionStatsResponse;
+import com.bank.api.exception.AdmissionRejectedException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControlTest {
+
+    @Test
+    void tokenBucketAllowsBurstThenRefills() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, 3, now);
+
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertTrue(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now));
+
+        long later = now + TimeUnit.MILLISECONDS.toNanos(100);
+        assertTrue(bucket.tryAcquire(later));
+        assertFalse(bucket.tryAcquire(later));
+        assertTrue(bucket.isIdle(later + TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void concurrencyLimiterRejectsAboveLimitAndBacksOffOnSlowResponses() {
+        long target = TimeUnit.MILLISECONDS.toNanos(10);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, target, 0.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(target * 2, true);
+        assertEquals(1, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void concurrencyLimiterGrowsAdditivelyWhenBusyAndFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, TimeUnit.SECONDS.toNanos(1), 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            limiter.release(1, true);
+            limiter.release(1, true);
+        }
+
+        assertTrue(limiter.getLimit() > 2);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void admissionControlCountsRejections() {
+        AdmissionControl control = new AdmissionControl(true, true, 1, 1, 1, 1, 100, 10, 1, 10, 100, 0.9);
+
+        control.admit("client-a", "10.0.0.1");
+        control.release(1, true);
+        AdmissionRejectedException ex = assertThrows(AdmissionRejectedException.class,
+                () -> control.admit("client-a", "10.0.0.2"));
+        control.admit("client-b", "10.0.0.1");
+        control.release(1, true);
+
+        control.admitAccount(1L);
+        assertThrows(AdmissionRejectedException.class, () -> control.admitAccount(1L));
+
+        AdmissionStatsResponse stats = control.stats();
+        assertEquals("client rate limit exceeded", ex.getMessage());
+        assertEquals(2, stats.admitted());
+        assertEquals(1, stats.rejectedByClient());
+        assertEquals(1, stats.rejectedByAccount());
+        assertEquals(0, stats.inFlight());
+    }
+
+    @Test
+    void admissionControlIgnoresClientHeaderUnlessTrusted() {
+        AdmissionControl control = new AdmissionControl(true, false, 1, 1, 1, 1, 100, 10, 1, 10, 100, 0.9);
+
+        control.admit("client-a", "10.0.0.1");
+        control.release(1, true);
+
+        assertThrows(AdmissionRejectedException.class, () -> control.admit("client-b", "10.0.0.1"));
+    }
+
+    @Test
+    void limiterStopsTrackingNewKeysWhenFull() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 2);
+
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+        assertFalse(limiter.canTrack("c"));
+        assertTrue(limiter.canTrack("a"));
+
+        assertTrue(limiter.tryAcquire("c"));
+        assertFalse(limiter.tryAcquire("d"));
+        assertEquals(2, limiter.trackedKeys());
+    }
+}
@@ -16,6 +16,7 @@ import com.bank.api.dto.OperationItemResponse;
 import com.bank.api.entity.Account;
 import com.bank.api.entity.Operation;
 import com.bank.api.entity.OperationType;
+import com.bank.api.event.OperationRecordedEvent;
 import com.bank.api.exception.BusinessException;
 import com.bank.api.repository.AccountRepository;
 import com.bank.api.repository.OperationRepository;
@@ -30,6 +31,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BankServiceTest {
@@ -40,6 +42,9 @@ class BankServiceTest {
     @Mock
     private OperationRepository operationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BankService bankService;
 
@@ -121,6 +126,8 @@ class BankServiceTest {
         assertEquals(0, savedOperation.getAmount().compareTo(new BigDecimal("25.00")));
         assertEquals(null, savedOperation.getRelatedUserId());
         assertNotNull(savedOperation.getCreatedAt());
+
+        verify(eventPublisher).publishEvent(new OperationRecordedEvent(1L));
     }
 
     @Test
@@ -227,5 +234,8 @@ class BankServiceTest {
         assertEquals(OperationType.TRANSFER_IN, second.getOperationType());
         assertEquals(2L, second.getUserId());
         assertEquals(1L, second.getRelatedUserId());
+
+        verify(eventPublisher).publishEvent(new OperationRecordedEvent(1L));
+        verify(eventPublisher).publishEvent(new OperationRecordedEvent(2L));
     }
 }
@@ -0,0 +1,155 @@
+package com.bank.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.api.dto.BalanceMismatch;
+import com.bank.api.dto.LedgerReport;
+import com.bank.api.entity.Account;
+import com.bank.api.entity.BalanceCheckpoint;
+import com.bank.api.entity.OperationType;
+import com.bank.api.repository.AccountRepository;
+import com.bank.api.repository.BalanceCheckpointRepository;
+import com.bank.api.repository.OperationAmountView;
+import com.bank.api.repository.OperationRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerVerificationServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private OperationRepository operationRepository;
+
+    @Mock
+    private BalanceCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LedgerVerificationService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerService = new LedgerVerificationService(accountRepository, operationRepository,
+                checkpointRepository, transactionManager, 1, 256, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledgerService.shutdown();
+    }
+
+    private Account account(long userId, String balance) {
+        Account account = new Account();
+        account.setUserId(userId);
+        account.setBalance(new BigDecimal(balance));
+        return account;
+    }
+
+    private BalanceCheckpoint checkpoint(long userId, String balance, long lastOperationId) {
+        BalanceCheckpoint checkpoint = new BalanceCheckpoint();
+        checkpoint.setUserId(userId);
+        checkpoint.setBalance(new BigDecimal(balance));
+        checkpoint.setLastOperationId(lastOperationId);
+        return checkpoint;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verifyReportsMismatchAndAdvancesCheckpointForConsistentAccount() {
+        when(accountRepository.findAllUserIds()).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(account(1L, "70.00"), account(2L, "999.00")));
+        when(checkpointRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(checkpoint(1L, "100.00", 5L)));
+        when(operationRepository.streamAmountsAfter(1L, 5L)).thenReturn(Stream.of(
+                new OperationAmountView(6L, OperationType.WITHDRAW, new BigDecimal("50.00")),
+                new OperationAmountView(9L, OperationType.TRANSFER_IN, new BigDecimal("20.00"))));
+        when(operationRepository.streamAmountsAfter(2L, 0L)).thenReturn(Stream.of(
+                new OperationAmountView(7L, OperationType.DEPOSIT, new BigDecimal("10.00"))));
+
+        LedgerReport report = ledgerService.verify();
+
+        assertEquals(2, report.checkedAccounts());
+        assertEquals(3, report.scannedOperations());
+        assertEquals(1, report.mismatches().size());
+        BalanceMismatch mismatch = report.mismatches().get(0);
+        assertEquals(2L, mismatch.userId());
+        assertEquals(0, mismatch.historyBalance().compareTo(new BigDecimal("10.00")));
+
+        ArgumentCaptor<List<BalanceCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(checkpointRepository).saveAll(captor.capture());
+        List<BalanceCheckpoint> saved = captor.getValue();
+        assertEquals(1, saved.size());
+        assertEquals(1L, saved.get(0).getUserId());
+        assertEquals(9L, saved.get(0).getLastOperationId());
+        assertEquals(0, saved.get(0).getBalance().compareTo(new BigDecimal("70.00")));
+    }
+
+    @Test
+    void verifyDoesNotWriteCheckpointWhenNothingScanned() {
+        when(accountRepository.findAllUserIds()).thenReturn(List.of(1L));
+        when(accountRepository.findAllById(List.of(1L))).thenReturn(List.of(account(1L, "100.00")));
+        when(checkpointRepository.findAllById(List.of(1L))).thenReturn(List.of(checkpoint(1L, "100.00", 5L)));
+        when(operationRepository.streamAmountsAfter(1L, 5L)).thenReturn(Stream.empty());
+
+        LedgerReport report = ledgerService.verify();
+
+        assertEquals(0, report.mismatches().size());
+        verify(checkpointRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void rebuildRestoresBalanceFromHistory() {
+        Account account = account(1L, "5.00");
+        when(accountRepository.findAllUserIds()).thenReturn(List.of(1L));
+        when(accountRepository.findByUserId(1L)).thenReturn(Optional.of(account));
+        when(checkpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint(1L, "100.00", 5L)));
+        when(operationRepository.streamAmountsAfter(1L, 5L)).thenReturn(Stream.of(
+                new OperationAmountView(8L, OperationType.DEPOSIT, new BigDecimal("25.00"))));
+
+        LedgerReport report = ledgerService.rebuild();
+
+        assertEquals(1, report.mismatches().size());
+        assertEquals(0, report.unrepaired().size());
+        assertEquals(0, account.getBalance().compareTo(new BigDecimal("125.00")));
+        verify(accountRepository).save(account);
+        verify(checkpointRepository).save(any(BalanceCheckpoint.class));
+    }
+
+    @Test
+    void rebuildReportsNegativeHistoryAsUnrepaired() {
+        Account account = account(1L, "5.00");
+        when(accountRepository.findAllUserIds()).thenReturn(List.of(1L));
+        when(accountRepository.findByUserId(1L)).thenReturn(Optional.of(account));
+        when(checkpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint(1L, "10.00", 5L)));
+        when(operationRepository.streamAmountsAfter(1L, 5L)).thenReturn(Stream.of(
+                new OperationAmountView(8L, OperationType.WITHDRAW, new BigDecimal("25.00"))));
+
+        LedgerReport report = ledgerService.rebuild();
+
+        assertEquals(0, report.mismatches().size());
+        assertEquals(1, report.unrepaired().size());
+        assertEquals(0, account.getBalance().compareTo(new BigDecimal("5.00")));
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(checkpointRepository, never()).save(any(BalanceCheckpoint.class));
+    }
+}
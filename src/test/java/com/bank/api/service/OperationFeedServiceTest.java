@@ -0,0 +1,274 @@
+package com.bank.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.api.entity.Operation;
+import com.bank.api.entity.OperationType;
+import com.bank.api.event.OperationRecordedEvent;
+import com.bank.api.exception.BusinessException;
+import com.bank.api.repository.AccountRepository;
+import com.bank.api.repository.OperationRepository;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class OperationFeedServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private OperationRepository operationRepository;
+
+    private final List<Long> sentIds = new CopyOnWriteArrayList<>();
+    private final CountDownLatch stalledClient = new CountDownLatch(1);
+    private volatile long stallOnId = -1;
+
+    private OperationFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new OperationFeedService(accountRepository, operationRepository, 200, 2, 3, 1, 60_000, 100) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return new RecordingEmitter(timeout);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        stalledClient.countDown();
+        feedService.shutdown();
+    }
+
+    private Operation operation(long id, long userId) {
+        Operation operation = new Operation();
+        ReflectionTestUtils.setField(operation, "id", id);
+        operation.setUserId(userId);
+        operation.setOperationType(OperationType.DEPOSIT);
+        operation.setAmount(new BigDecimal("10.00"));
+        operation.setCreatedAt(OffsetDateTime.parse("2026-02-18T18:00:00Z"));
+        return operation;
+    }
+
+    private MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        request.startAsync();
+        return request;
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && sentIds.size() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void subscribeThrowsWhenUserNotFound() {
+        when(accountRepository.existsById(100L)).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> feedService.subscribe(100L, null, asyncRequest()));
+
+        assertEquals("user not found", ex.getMessage());
+    }
+
+    @Test
+    void subscribeLimitsStreamsPerUser() {
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(operationRepository.findLastIdByUserId(1L)).thenReturn(0L);
+
+        assertNotNull(feedService.subscribe(1L, null, asyncRequest()));
+        assertNotNull(feedService.subscribe(1L, null, asyncRequest()));
+        BusinessException ex = assertThrows(BusinessException.class, () -> feedService.subscribe(1L, null, asyncRequest()));
+
+        assertEquals("too many subscriptions", ex.getMessage());
+        assertEquals(2, feedService.subscriberCount(1L));
+    }
+
+    @Test
+    void subscribeWithoutLastOperationIdStartsAfterLatestOperation() {
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(operationRepository.findLastIdByUserId(1L)).thenReturn(7L);
+
+        feedService.subscribe(1L, null, asyncRequest());
+
+        verify(operationRepository, timeout(1000)).findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(7L), any(Limit.class));
+    }
+
+    @Test
+    void subscribeWithLastOperationIdReplaysHistory() throws InterruptedException {
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(5L), any(Limit.class)))
+                .thenReturn(List.of(operation(6L, 1L)));
+
+        feedService.subscribe(1L, 5L, asyncRequest());
+        awaitSent(1);
+
+        assertEquals(List.of(6L), sentIds);
+        assertEquals(1, feedService.subscriberCount(1L));
+    }
+
+    @Test
+    void outOfOrderCommitEventsDoNotLoseOperations() throws InterruptedException {
+        Operation first = operation(10L, 1L);
+        Operation second = operation(11L, 1L);
+        CountDownLatch initialRead = new CountDownLatch(1);
+        CountDownLatch caughtUp = new CountDownLatch(1);
+        when(accountRepository.existsById(1L)).thenReturn(true);
+        when(operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(9L), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    if (initialRead.getCount() > 0) {
+                        initialRead.countDown();
+                        return List.of();
+                    }
+                    return List.of(first, second);
+                });
+        when(operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(11L), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    caughtUp.countDown();
+                    return List.of();
+                });
+
+        feedService.subscribe(1L, 9L, asyncRequest());
+        assertTrue(initialRead.await(1, TimeUnit.SECONDS));
+
+        // op 11 commits second but its after-commit callback runs first
+        feedService.onOperationRecorded(new OperationRecordedEvent(1L));
+        awaitSent(2);
+        feedService.onOperationRecorded(new OperationRecordedEvent(1L));
+        assertTrue(caughtUp.await(1, TimeUnit.SECONDS));
+
+        assertEquals(List.of(10L, 11L), sentIds);
+    }
+
+    @Test
+    void subscribeLimitsTotalStreams() {
+        when(accountRepository.existsById(any())).thenReturn(true);
+        when(operationRepository.findLastIdByUserId(any())).thenReturn(0L);
+
+        feedService.subscribe(1L, null, asyncRequest());
+        feedService.subscribe(2L, null, asyncRequest());
+        feedService.subscribe(3L, null, asyncRequest());
+
+        assertThrows(BusinessException.class, () -> feedService.subscribe(4L, null, asyncRequest()));
+    }
+
+    @Test
+    void feedReadsDoNotExceedConcurrencyLimit() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        CountDownLatch allRead = new CountDownLatch(3);
+        when(accountRepository.existsById(any())).thenReturn(true);
+        when(operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(any(), eq(0L), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.sleep(50);
+                    active.decrementAndGet();
+                    allRead.countDown();
+                    return List.of();
+                });
+
+        feedService.subscribe(1L, 0L, asyncRequest());
+        feedService.subscribe(2L, 0L, asyncRequest());
+        feedService.subscribe(3L, 0L, asyncRequest());
+
+        assertTrue(allRead.await(2, TimeUnit.SECONDS));
+        assertEquals(1, maxActive.get());
+    }
+
+    @Test
+    void stalledClientIsAbortedAndKeepsItsSlotUntilTheWriteReturns() throws InterruptedException {
+        stallOnId = 6L;
+        when(accountRepository.existsById(any())).thenReturn(true);
+        when(operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(5L), any(Limit.class)))
+                .thenReturn(List.of(operation(6L, 1L)));
+        when(operationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(2L), eq(5L), any(Limit.class)))
+                .thenReturn(List.of(operation(7L, 2L)));
+        MockHttpServletRequest stalledRequest = asyncRequest();
+
+        feedService.subscribe(1L, 5L, stalledRequest);
+        feedService.subscribe(2L, 5L, asyncRequest());
+        awaitSent(1);
+        for (int i = 0; i < 100 && stalledRequest.isAsyncStarted(); i++) {
+            Thread.sleep(10);
+        }
+
+        // the write still holds the emitter monitor, yet the request was completed and the slot is kept
+        assertFalse(stalledRequest.isAsyncStarted());
+        assertEquals(List.of(7L), sentIds);
+        assertEquals(1, feedService.subscriberCount(1L));
+        feedService.subscribe(3L, 5L, asyncRequest());
+        assertThrows(BusinessException.class, () -> feedService.subscribe(4L, 5L, asyncRequest()));
+
+        // the connector write timeout fails the blocked write
+        stalledClient.countDown();
+        for (int i = 0; i < 100 && feedService.subscriberCount(1L) > 0; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, feedService.subscriberCount(1L));
+        assertNotNull(feedService.subscribe(4L, 5L, asyncRequest()));
+    }
+
+    private class RecordingEmitter extends SseEmitter {
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            for (DataWithMediaType part : builder.build()) {
+                Matcher matcher = EVENT_ID.matcher(String.valueOf(part.getData()));
+                if (matcher.find()) {
+                    long id = Long.parseLong(matcher.group(1));
+                    if (id == stallOnId) {
+                        // simulates a client whose TCP window is full; synchronized like ResponseBodyEmitter.send
+                        awaitQuietly();
+                        throw new IOException("connection closed");
+                    }
+                    sentIds.add(id);
+                }
+            }
+        }
+
+        private void awaitQuietly() {
+            try {
+                stalledClient.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.bank.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.api.entity.RecurringTransfer;
+import com.bank.api.exception.BusinessException;
+import com.bank.api.repository.RecurringTransferRepository;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransferRunnerTest {
+
+    private static final OffsetDateTime FIRST_RUN = OffsetDateTime.parse("2026-01-01T09:00:00Z");
+
+    @Mock
+    private RecurringTransferRepository recurringTransferRepository;
+
+    @Mock
+    private BankService bankService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecurringTransferRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new RecurringTransferRunner(recurringTransferRepository, bankService, transactionManager,
+                true, 2, 10, 300, 600, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private RecurringTransfer recurring(long id, long fromUserId, long toUserId) {
+        RecurringTransfer transfer = new RecurringTransfer();
+        ReflectionTestUtils.setField(transfer, "id", id);
+        transfer.setFromUserId(fromUserId);
+        transfer.setToUserId(toUserId);
+        transfer.setAmount(new BigDecimal("50.00"));
+        transfer.setPeriod("P1M");
+        transfer.setFirstRunAt(FIRST_RUN);
+        transfer.setNextRunAt(FIRST_RUN);
+        transfer.setActive(true);
+        return transfer;
+    }
+
+    @Test
+    void runBatchTransfersAndAdvancesSchedule() {
+        RecurringTransfer rent = recurring(1L, 1L, 2L);
+        when(recurringTransferRepository.lockDue(any(), eq(10))).thenReturn(List.of(rent));
+        when(recurringTransferRepository.findLockedById(1L)).thenReturn(Optional.of(rent));
+
+        int claimed = runner.runBatch();
+
+        assertEquals(1, claimed);
+        verify(bankService).transfer(1L, 2L, new BigDecimal("50.00"));
+        assertTrue(rent.getNextRunAt().isAfter(OffsetDateTime.now(ZoneOffset.UTC)));
+        assertEquals(1, rent.getNextRunAt().getDayOfMonth());
+        assertEquals(FIRST_RUN.toLocalTime(), rent.getNextRunAt().toLocalTime());
+        assertNotNull(rent.getLastRunAt());
+        assertNull(rent.getClaimedBy());
+        assertNull(rent.getClaimedUntil());
+    }
+
+    @Test
+    void runBatchRecordsFailureForRetry() {
+        RecurringTransfer rent = recurring(1L, 1L, 2L);
+        when(recurringTransferRepository.lockDue(any(), eq(10))).thenReturn(List.of(rent));
+        when(recurringTransferRepository.findLockedById(1L)).thenReturn(Optional.of(rent));
+        doThrow(new BusinessException(0, "insufficient funds"))
+                .when(bankService).transfer(1L, 2L, new BigDecimal("50.00"));
+
+        runner.runBatch();
+
+        assertEquals(1, rent.getAttempts());
+        assertEquals("insufficient funds", rent.getLastError());
+        assertNotNull(rent.getRetryAt());
+        assertEquals(FIRST_RUN, rent.getNextRunAt());
+        assertNull(rent.getClaimedBy());
+    }
+
+    @Test
+    void runBatchSkipsOccurrenceAfterMaxAttempts() {
+        RecurringTransfer rent = recurring(1L, 1L, 2L);
+        rent.setAttempts(2);
+        when(recurringTransferRepository.lockDue(any(), eq(10))).thenReturn(List.of(rent));
+        when(recurringTransferRepository.findLockedById(1L)).thenReturn(Optional.of(rent));
+        doThrow(new BusinessException(0, "insufficient funds"))
+                .when(bankService).transfer(1L, 2L, new BigDecimal("50.00"));
+
+        runner.runBatch();
+
+        assertEquals(0, rent.getAttempts());
+        assertNull(rent.getRetryAt());
+        assertTrue(rent.getNextRunAt().isAfter(OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+
+    @Test
+    void runBatchDoesNotExecuteWhenClaimWasTakenOver() {
+        RecurringTransfer claimedRow = recurring(1L, 1L, 2L);
+        RecurringTransfer currentRow = recurring(1L, 1L, 2L);
+        currentRow.setClaimedBy("other-instance");
+        when(recurringTransferRepository.lockDue(any(), eq(10))).thenReturn(List.of(claimedRow));
+        when(recurringTransferRepository.findLockedById(1L)).thenReturn(Optional.of(currentRow));
+
+        runner.runBatch();
+
+        verify(bankService, never()).transfer(any(), any(), any());
+        assertEquals("other-instance", currentRow.getClaimedBy());
+    }
+
+    @Test
+    void nextOccurrenceKeepsMonthEndAnchor() {
+        RecurringTransfer rent = recurring(1L, 1L, 2L);
+        rent.setFirstRunAt(OffsetDateTime.parse("2026-01-31T09:00:00Z"));
+        rent.setNextRunAt(OffsetDateTime.parse("2026-01-31T09:00:00Z"));
+
+        OffsetDateTime february = RecurringTransferRunner.nextOccurrence(rent, OffsetDateTime.parse("2026-01-31T09:00:01Z"));
+        rent.setNextRunAt(february);
+        OffsetDateTime march = RecurringTransferRunner.nextOccurrence(rent, OffsetDateTime.parse("2026-02-28T09:00:01Z"));
+        rent.setNextRunAt(march);
+        OffsetDateTime april = RecurringTransferRunner.nextOccurrence(rent, OffsetDateTime.parse("2026-03-31T09:00:01Z"));
+
+        assertEquals(OffsetDateTime.parse("2026-02-28T09:00:00Z"), february);
+        assertEquals(OffsetDateTime.parse("2026-03-31T09:00:00Z"), march);
+        assertEquals(OffsetDateTime.parse("2026-04-30T09:00:00Z"), april);
+    }
+}
@@ -0,0 +1,108 @@
+package com.bank.api.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bank.api.dto.ApiResponse;
+import com.bank.api.dto.BalanceResponse;
+import com.bank.api.dto.OperationItemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ApiResponseEncoderTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] encode(ApiResponse<?> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ApiResponseEncoder.encode(response).writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void encodesSameBytesAsJackson() throws IOException {
+        List<ApiResponse<?>> responses = List.of(
+                ApiResponse.success(),
+                ApiResponse.ok(1, null),
+                ApiResponse.fail(0, "insufficient funds"),
+                ApiResponse.fail(-1, "quote \" slash \\ tab \t newline \n bell \u0007"),
+                ApiResponse.fail(0, "недостаточно средств € 💰"),
+                ApiResponse.ok(new BigDecimal("1000.00"), new BalanceResponse(1L, new BigDecimal("1000.00"))),
+                ApiResponse.ok(new BigDecimal("-5.10"), new BalanceResponse(Long.MIN_VALUE, new BigDecimal("-5.10"))),
+                new ApiResponse<>(null, null, null)
+        );
+
+        for (ApiResponse<?> response : responses) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), encode(response), response.toString());
+        }
+    }
+
+    @Test
+    void supportsOnlyFixedResponseShapes() throws NoSuchMethodException {
+        assertTrue(ApiResponseEncoder.supports(returnType("voidResponse")));
+        assertTrue(ApiResponseEncoder.supports(returnType("balanceResponse")));
+        assertFalse(ApiResponseEncoder.supports(returnType("listResponse")));
+        assertFalse(ApiResponseEncoder.supports(ApiResponse.class));
+    }
+
+    /**
+     * Allocation-rate benchmark: bytes allocated per encoded {@code getBalance} response,
+     * Jackson reflection versus the specialized encoder.
+     */
+    @Test
+    void allocatesLessThanJackson() throws IOException {
+        ApiResponse<BalanceResponse> response =
+                ApiResponse.ok(new BigDecimal("1000.00"), new BalanceResponse(1L, new BigDecimal("1000.00")));
+        OutputStream sink = OutputStream.nullOutputStream();
+
+        long jackson = bytesPerOperation(() -> sink.write(objectMapper.writeValueAsBytes(response)));
+        long encoder = bytesPerOperation(() -> ApiResponseEncoder.encode(response).writeTo(sink));
+
+        assertTrue(encoder * 2 < jackson, "encoder=" + encoder + " B/op, jackson=" + jackson + " B/op");
+    }
+
+    private long bytesPerOperation(IoAction action) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            action.run();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            action.run();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+
+    private static java.lang.reflect.Type returnType(String name) throws NoSuchMethodException {
+        Method method = ApiResponseEncoderTest.class.getDeclaredMethod(name);
+        return method.getGenericReturnType();
+    }
+
+    private static ApiResponse<Void> voidResponse() {
+        return null;
+    }
+
+    private static ApiResponse<BalanceResponse> balanceResponse() {
+        return null;
+    }
+
+    private static ApiResponse<List<OperationItemResponse>> listResponse() {
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}